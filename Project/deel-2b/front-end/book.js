@@ -1,5 +1,6 @@
 const books = [];
 const errors = [];
+let catalogueSize = 0;
 
 const fetchBooks = async (url) => {
     errors.length = 0;
@@ -26,9 +27,12 @@ const renderBooks = () => {
     }
 
     if (books.length === 0) {
+        removeStatusErrors();
         addTableError({
             tableID: "booksTable",
-            text: "No books in the library.",
+            text: catalogueSize
+                ? "No books match the filter."
+                : "No books in the library.",
         });
     } else {
         removeTableError({ tableID: "booksTable" });
@@ -61,23 +65,37 @@ const getTotalValue = async () => {
     return totalValue.toFixed(2);
 };
 
-const fetchAndRenderAllBooks = async () => {
-    await fetchBooks("http://localhost:8080/api/book/all");
-    renderBooks();
-    clearFilters();
+const renderStatistics = async () => {
     clearStatistics();
     addStatistic(
         `The most expensive book is: ${
-            books.length ? await getMostExpensive() : "No books in the library."
+            catalogueSize ? await getMostExpensive() : "No books in the library."
         }`
     );
     addStatistic(
         `The total value of the collection is: ${
-            books.length ? await getTotalValue() : "No books in the library."
+            catalogueSize ? await getTotalValue() : "No books in the library."
         }`
     );
 };
 
+const fetchAndRenderAllBooks = async () => {
+    await fetchBooks("http://localhost:8080/api/book/all");
+    if (errors.length === 0) {
+        catalogueSize = books.length;
+    }
+    renderBooks();
+    clearFilters();
+    await renderStatistics();
+};
+
+const removeBookFromList = (book) => {
+    const index = books.indexOf(book);
+    if (index !== -1) {
+        books.splice(index, 1);
+    }
+};
+
 const deleteBook = async (book) => {
     const response = await fetch(
         `http://localhost:8080/api/book/remove/${book.title}`,
@@ -90,12 +108,18 @@ const deleteBook = async (book) => {
         }
     );
     const result = await response.json();
-    if (result != null) {
+    if (response.ok && result != null) {
         document.getElementById(
             "message"
         ).innerText = `Book with title ${result.title} is removed`;
+        removeBookFromList(book);
+        catalogueSize--;
+        renderBooks();
+        await renderStatistics();
+    } else {
+        document.getElementById("message").innerText = result.title;
+        await fetchAndRenderAllBooks();
     }
-    fetchAndRenderAllBooks();
 };
 
 document.getElementById("filterPrice").addEventListener("click", async () => {